@@ -0,0 +1,61 @@
+package com.example.certmgmt.cli;
+
+import com.example.certmgmt.dto.CertificateImportReport;
+import com.example.certmgmt.service.CertificateImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Imports a directory of PEM certificates and exits:
+ *   java -jar cert-mgmt.jar --certificates.import.dir=/path/to/certs --spring.main.web-application-type=none
+ * Exits 0 when everything was imported or skipped, 1 on any reject or failure.
+ * With --certificates.import.exit=false it runs as a startup hook instead and
+ * leaves the server running; failures are logged, never thrown.
+ * Safe to re-run after an interruption; certificates already in Vault are skipped.
+ */
+@Configuration
+@ConditionalOnProperty(name = "certificates.import.dir")
+public class CertificateImportCommand {
+
+    private static final Logger log = LoggerFactory.getLogger(CertificateImportCommand.class);
+
+    @Bean
+    public CommandLineRunner importCertificates(CertificateImportService certificateImportService,
+                                                ApplicationContext context,
+                                                @Value("${certificates.import.dir}") String directory,
+                                                @Value("${certificates.import.exit:true}") boolean exitWhenDone) {
+        return args -> {
+            int exitCode;
+            try {
+                log.info("=== Importing certificates from {} ===", directory);
+                CertificateImportReport report = certificateImportService.importDirectory(Path.of(directory));
+                log.info("Parsed: {}", report.getParsed());
+                log.info("Imported: {}", report.getImported());
+                log.info("Duplicates: {}", report.getDuplicates());
+                log.info("Already in Vault: {}", report.getAlreadyInVault());
+                log.info("Rejected: {}", report.getRejected());
+                log.info("Rate: {} certificates/s over {} ms",
+                    String.format("%.1f", report.getCertificatesPerSecond()), report.getElapsedMillis());
+                report.getRejects().forEach(reject -> log.warn("Rejected {}", reject));
+                exitCode = report.getRejected() == 0 ? 0 : 1;
+            } catch (Exception e) {
+                log.error("❌ Certificate import failed: {}", e.getMessage(), e);
+                exitCode = 1;
+            }
+
+            if (exitWhenDone) {
+                int code = exitCode;
+                System.exit(SpringApplication.exit(context, () -> code));
+            }
+        };
+    }
+}
@@ -1,13 +1,22 @@
 package com.example.certmgmt.controller;
 
+import com.example.certmgmt.dto.CertificateExportFilter;
+import com.example.certmgmt.dto.CertificateImportReport;
 import com.example.certmgmt.dto.CertificateRequest;
 import com.example.certmgmt.dto.CertificateResponse;
+import com.example.certmgmt.service.CertificateExportService;
+import com.example.certmgmt.service.CertificateImportService;
 import com.example.certmgmt.service.CertificateService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -16,10 +25,19 @@ import java.util.Map;
 public class CertificateController {
 
     private final CertificateService certificateService;
+    private final CertificateExportService certificateExportService;
+    private final CertificateImportService certificateImportService;
+    private final long exportTimeoutMillis;
 
     @Autowired
-    public CertificateController(CertificateService certificateService) {
+    public CertificateController(CertificateService certificateService,
+                                 CertificateExportService certificateExportService,
+                                 CertificateImportService certificateImportService,
+                                 @Value("${certificates.export.timeout-ms:-1}") long exportTimeoutMillis) {
         this.certificateService = certificateService;
+        this.certificateExportService = certificateExportService;
+        this.certificateImportService = certificateImportService;
+        this.exportTimeoutMillis = exportTimeoutMillis;
     }
 
     /**
@@ -39,6 +57,50 @@ public class CertificateController {
         }
     }
 
+    /**
+     * POST /api/certificates/import
+     * Body is a stream of concatenated PEM certificates.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.TEXT_PLAIN_VALUE, "application/x-pem-file"})
+    public ResponseEntity<CertificateImportReport> importCertificates(InputStream body) {
+        try {
+            return ResponseEntity.ok(certificateImportService.importPem(body));
+        } catch (Exception e) {
+            CertificateImportReport errorResponse = new CertificateImportReport();
+            errorResponse.setMessage("Failed to import certificates: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(errorResponse);
+        }
+    }
+
+    /**
+     * GET /api/certificates/export
+     * Streams the inventory as NDJSON. Private keys are excluded unless includePrivateKey=true.
+     * Unreadable certificates appear as {"_error": ...} lines and the last line is always
+     * {"_summary": {...}}; a response without it was truncated.
+     * Runs with its own async timeout (certificates.export.timeout-ms, -1 = none) instead of
+     * the container default, so large inventories are not cut off.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> exportCertificates(
+            @RequestParam(required = false) String commonName,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer expiresWithinDays,
+            @RequestParam(defaultValue = "false") boolean includePrivateKey,
+            HttpServletResponse response) {
+        CertificateExportFilter filter = new CertificateExportFilter();
+        filter.setCommonName(commonName);
+        filter.setStatus(status);
+        filter.setExpiresWithinDays(expiresWithinDays);
+        filter.setIncludePrivateKey(includePrivateKey);
+
+        response.setContentType("application/x-ndjson");
+        return new WebAsyncTask<>(exportTimeoutMillis, () -> {
+            certificateExportService.exportNdjson(filter, response.getOutputStream());
+            return null;
+        });
+    }
+
     /**
      * GET /api/certificates/{id}
      */
@@ -0,0 +1,23 @@
+package com.example.certmgmt.dto;
+
+public class CertificateExportFilter {
+    private String commonName;
+    private String status;
+    private Integer expiresWithinDays;
+    private boolean includePrivateKey;
+
+    public CertificateExportFilter() {}
+
+    // Getters and Setters
+    public String getCommonName() { return commonName; }
+    public void setCommonName(String commonName) { this.commonName = commonName; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public Integer getExpiresWithinDays() { return expiresWithinDays; }
+    public void setExpiresWithinDays(Integer expiresWithinDays) { this.expiresWithinDays = expiresWithinDays; }
+
+    public boolean isIncludePrivateKey() { return includePrivateKey; }
+    public void setIncludePrivateKey(boolean includePrivateKey) { this.includePrivateKey = includePrivateKey; }
+}
@@ -0,0 +1,46 @@
+package com.example.certmgmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CertificateImportReport {
+    private long parsed;
+    private long imported;
+    private long duplicates;
+    private long alreadyInVault;
+    private long rejected;
+    private long elapsedMillis;
+    private double certificatesPerSecond;
+    private List<String> rejects = new ArrayList<>();
+    private String message;
+
+    public CertificateImportReport() {}
+
+    // Getters and Setters
+    public long getParsed() { return parsed; }
+    public void setParsed(long parsed) { this.parsed = parsed; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getDuplicates() { return duplicates; }
+    public void setDuplicates(long duplicates) { this.duplicates = duplicates; }
+
+    public long getAlreadyInVault() { return alreadyInVault; }
+    public void setAlreadyInVault(long alreadyInVault) { this.alreadyInVault = alreadyInVault; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getCertificatesPerSecond() { return certificatesPerSecond; }
+    public void setCertificatesPerSecond(double certificatesPerSecond) { this.certificatesPerSecond = certificatesPerSecond; }
+
+    public List<String> getRejects() { return rejects; }
+    public void setRejects(List<String> rejects) { this.rejects = rejects; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
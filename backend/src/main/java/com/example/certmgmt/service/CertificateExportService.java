@@ -0,0 +1,200 @@
+package com.example.certmgmt.service;
+
+import com.example.certmgmt.dto.CertificateExportFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.vault.core.VaultTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams the certificate inventory stored under secret/certificates as NDJSON.
+ * Certificates are read from Vault a window at a time, so at most
+ * {@code concurrency} records are held in memory regardless of inventory size.
+ */
+@Service
+public class CertificateExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CertificateExportService.class);
+
+    private final VaultTemplate vaultTemplate;
+    private final ObjectMapper objectMapper;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    @Autowired
+    public CertificateExportService(VaultTemplate vaultTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${certificates.export.concurrency:8}") int concurrency) {
+        this.vaultTemplate = vaultTemplate;
+        this.objectMapper = objectMapper;
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = Executors.newFixedThreadPool(this.concurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Writes one JSON object per line for every certificate matching the filter.
+     * The next window is only read from Vault once the previous one has been
+     * written and flushed, so a slow client throttles the Vault reads.
+     * A certificate that cannot be read is written as
+     * {"_error": message, "certificateId": id} and the export carries on.
+     * The last line is always
+     * {"_summary": {"exported": n, "errors": n, "filtered": n, "skipped": n, "total": n}},
+     * where skipped counts folders and entries without data (e.g. deleted KV versions)
+     * and exported + errors + filtered + skipped == total; a stream without it was cut off.
+     */
+    public long exportNdjson(CertificateExportFilter filter, OutputStream out) throws IOException {
+        List<String> ids = vaultTemplate.list(CertificateVault.METADATA_PATH);
+        if (ids == null) {
+            ids = List.of();
+        }
+
+        long written = 0;
+        long errors = 0;
+        long filtered = 0;
+        long skipped = 0;
+        List<Future<Map<String, Object>>> window = new ArrayList<>(concurrency);
+        for (int i = 0; i < ids.size(); i += concurrency) {
+            List<String> windowIds = ids.subList(i, Math.min(i + concurrency, ids.size()));
+            window.clear();
+            for (String id : windowIds) {
+                window.add(executor.submit(() -> readCertificate(id)));
+            }
+            for (int j = 0; j < window.size(); j++) {
+                Map<String, Object> record;
+                try {
+                    record = await(window.get(j));
+                } catch (ExecutionException e) {
+                    Map<String, Object> error = new LinkedHashMap<>();
+                    error.put("_error", "Failed to read certificate from Vault: " + e.getCause());
+                    error.put("certificateId", windowIds.get(j));
+                    writeLine(out, error);
+                    errors++;
+                    continue;
+                }
+                if (record == null) {
+                    skipped++;
+                    continue;
+                }
+                if (!matches(record, filter)) {
+                    filtered++;
+                    continue;
+                }
+                if (!filter.isIncludePrivateKey()) {
+                    record.remove("privateKey");
+                }
+                writeLine(out, record);
+                written++;
+            }
+            out.flush();
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("exported", written);
+        summary.put("errors", errors);
+        summary.put("filtered", filtered);
+        summary.put("skipped", skipped);
+        summary.put("total", ids.size());
+        writeLine(out, Map.of("_summary", summary));
+        out.flush();
+        log.info("Exported {} of {} certificates ({} read errors, {} filtered, {} skipped)",
+            written, ids.size(), errors, filtered, skipped);
+        return written;
+    }
+
+    private void writeLine(OutputStream out, Map<String, Object> line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+    }
+
+    private Map<String, Object> readCertificate(String certificateId) {
+        if (certificateId.endsWith("/")) {
+            return null;
+        }
+        var response = vaultTemplate.read(CertificateVault.DATA_PATH + certificateId, Map.class);
+        if (response == null || response.getData() == null) {
+            return null;
+        }
+        Map<String, Object> data = (Map<String, Object>) response.getData().get("data");
+        if (data == null) {
+            return null;
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("certificateId", certificateId);
+        record.putAll(data);
+        record.put("status", statusOf(record));
+        return record;
+    }
+
+    private Map<String, Object> await(Future<Map<String, Object>> future)
+            throws IOException, ExecutionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Certificate export interrupted", e);
+        }
+    }
+
+    private boolean matches(Map<String, Object> record, CertificateExportFilter filter) {
+        if (filter.getCommonName() != null
+                && !filter.getCommonName().equalsIgnoreCase((String) record.get("commonName"))) {
+            return false;
+        }
+        if (filter.getStatus() != null
+                && !filter.getStatus().equalsIgnoreCase((String) record.get("status"))) {
+            return false;
+        }
+        if (filter.getExpiresWithinDays() != null) {
+            Date validTo = parseDate((String) record.get("validTo"));
+            if (validTo == null) {
+                return false;
+            }
+            Calendar calendar = Calendar.getInstance();
+            calendar.add(Calendar.DAY_OF_YEAR, filter.getExpiresWithinDays());
+            if (validTo.after(calendar.getTime())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // active / expired / unknown, derived from validTo
+    static String statusOf(Map<String, Object> record) {
+        Date validTo = parseDate((String) record.get("validTo"));
+        if (validTo == null) {
+            return "unknown";
+        }
+        return validTo.before(new Date()) ? "expired" : "active";
+    }
+
+    // validTo is stored via Date.toString(), e.g. "Tue Oct 20 14:03:11 UTC 2026"
+    static Date parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new SimpleDateFormat("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US).parse(value);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+}
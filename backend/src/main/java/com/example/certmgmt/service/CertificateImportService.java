@@ -0,0 +1,301 @@
+package com.example.certmgmt.service;
+
+import com.example.certmgmt.dto.CertificateImportReport;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x500.style.IETFUtils;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.vault.core.VaultTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.X509Certificate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Bulk import of certificates that were not issued through
+ * {@link CertificateService#createAndStoreCertificate}.
+ * PEM blocks are read sequentially and handed to a worker pool that parses,
+ * validates, fingerprints and writes them to Vault; a semaphore caps the number of
+ * certificates in flight so the reader cannot run ahead of Vault.
+ * Each worker checks the certificate's fingerprint path and its issuer+serial
+ * marker in Vault before writing, so certificates issued by the service and
+ * anything written by an interrupted earlier import are skipped.
+ */
+@Service
+public class CertificateImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CertificateImportService.class);
+
+    private static final int MAX_REPORTED_REJECTS = 100;
+    private static final Set<String> CERTIFICATE_TYPES = Set.of("CERTIFICATE", "X509 CERTIFICATE");
+
+    private final VaultTemplate vaultTemplate;
+    private final int concurrency;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    static {
+        CertificateVault.registerProvider();
+    }
+
+    @Autowired
+    public CertificateImportService(VaultTemplate vaultTemplate,
+                                    @Value("${certificates.import.concurrency:16}") int concurrency) {
+        this.vaultTemplate = vaultTemplate;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxInFlight = this.concurrency * 4;
+        this.executor = Executors.newFixedThreadPool(this.concurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Imports every certificate in a stream of concatenated PEM blocks.
+     */
+    public CertificateImportReport importPem(InputStream in) throws InterruptedException {
+        ImportSession session = new ImportSession();
+        try {
+            session.read("request", in);
+        } catch (RuntimeException e) {
+            session.reject("request: " + reasonOf(e));
+        }
+        return session.finish();
+    }
+
+    /**
+     * Imports every .pem, .crt and .cer file found under the directory.
+     * An unreadable directory or file is reported as a reject.
+     */
+    public CertificateImportReport importDirectory(Path directory) throws InterruptedException {
+        ImportSession session = new ImportSession();
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> it = files.filter(Files::isRegularFile).filter(this::isPemFile).iterator();
+            while (it.hasNext()) {
+                Path file = it.next();
+                try (InputStream in = Files.newInputStream(file)) {
+                    session.read(file.toString(), in);
+                } catch (IOException | RuntimeException e) {
+                    session.reject(file + ": " + reasonOf(e));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            session.reject(directory + ": " + reasonOf(e));
+        }
+        return session.finish();
+    }
+
+    private boolean isPemFile(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".pem") || name.endsWith(".crt") || name.endsWith(".cer");
+    }
+
+    // Some exceptions (e.g. NullPointerException) carry no message
+    private static String reasonOf(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    // A KV v2 read of a deleted or missing secret has no "data"
+    private boolean existsInVault(String path) {
+        var response = vaultTemplate.read(path);
+        return response != null && response.getData() != null && response.getData().get("data") != null;
+    }
+
+    private class ImportSession {
+        private final long startedAt = System.currentTimeMillis();
+        private final Set<String> seenFingerprints = ConcurrentHashMap.newKeySet();
+        private final Set<String> seenSerials = ConcurrentHashMap.newKeySet();
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final AtomicLong parsed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong alreadyInVault = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<String> rejects = Collections.synchronizedList(new ArrayList<>());
+
+        /**
+         * Reads one source until it ends. A block with a corrupt body is
+         * rejected on its own; a failure of the underlying stream rejects the
+         * rest of the source. Certificates are parsed by the workers.
+         */
+        void read(String source, InputStream in) throws InterruptedException {
+            PemReader reader = new PemReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            int index = 0;
+            while (true) {
+                String label = source + " #" + index++;
+                PemObject block;
+                try {
+                    block = reader.readPemObject();
+                } catch (RuntimeException e) {
+                    // DecoderException: the block's base64 body is corrupt
+                    reject(label + ": " + reasonOf(e));
+                    continue;
+                } catch (IOException e) {
+                    reject(source + ": read failed, remaining certificates skipped: " + reasonOf(e));
+                    return;
+                }
+                if (block == null) {
+                    return;
+                }
+                // Keys and other PEM objects in a bundle are not imported.
+                if (CERTIFICATE_TYPES.contains(block.getType())) {
+                    byte[] der = block.getContent();
+                    submit(() -> store(label, new X509CertificateHolder(der)),
+                        e -> reject(label + ": " + reasonOf(e)));
+                }
+            }
+        }
+
+        private void submit(ThrowingRunnable task, Consumer<Exception> onError)
+                throws InterruptedException {
+            inFlight.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        onError.accept(e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                // e.g. RejectedExecutionException once the pool has been shut down
+                inFlight.release();
+                onError.accept(e);
+            }
+        }
+
+        private void store(String label, X509CertificateHolder holder) throws Exception {
+            X509Certificate certificate = new JcaX509CertificateConverter()
+                .setProvider("BC")
+                .getCertificate(holder);
+            parsed.incrementAndGet();
+
+            if (certificate.getNotAfter().before(certificate.getNotBefore())) {
+                reject(label + ": notAfter is before notBefore");
+                return;
+            }
+            // Only self-signed certificates can be verified without the issuer's chain
+            if (holder.getSubject().equals(holder.getIssuer())
+                    && !holder.isSignatureValid(new JcaContentVerifierProviderBuilder()
+                        .setProvider("BC")
+                        .build(holder))) {
+                reject(label + ": invalid self-signed signature");
+                return;
+            }
+
+            String fingerprint = CertificateVault.sha256Hex(certificate.getEncoded());
+            String issuer = CertificateVault.issuerOf(certificate);
+            String serialNumber = certificate.getSerialNumber().toString();
+            String serialKey = issuer + "|" + serialNumber;
+            if (!seenFingerprints.add(fingerprint)) {
+                duplicates.incrementAndGet();
+                return;
+            }
+            if (!seenSerials.add(serialKey)) {
+                seenFingerprints.remove(fingerprint);
+                duplicates.incrementAndGet();
+                return;
+            }
+
+            try {
+                String serialIndexPath = CertificateVault.serialIndexPath(issuer, serialNumber);
+                if (existsInVault(CertificateVault.DATA_PATH + fingerprint) || existsInVault(serialIndexPath)) {
+                    alreadyInVault.incrementAndGet();
+                    return;
+                }
+
+                Map<String, Object> certData = new HashMap<>();
+                certData.put("commonName", commonNameOf(holder.getSubject()));
+                certData.put("certificate", CertificateVault.convertToPem(certificate));
+                certData.put("publicKey", CertificateVault.convertToPem(certificate.getPublicKey()));
+                certData.put("issuer", issuer);
+                certData.put("validFrom", certificate.getNotBefore().toString());
+                certData.put("validTo", certificate.getNotAfter().toString());
+                certData.put("algorithm", certificate.getSigAlgName());
+                certData.put("serialNumber", serialNumber);
+                certData.put("fingerprint", fingerprint);
+                certData.put("source", "import");
+                certData.put("createdAt", new Date().toString());
+
+                vaultTemplate.write(CertificateVault.DATA_PATH + fingerprint, Map.of("data", certData));
+                vaultTemplate.write(serialIndexPath, Map.of("data", Map.of("certificateId", fingerprint)));
+                imported.incrementAndGet();
+            } catch (Exception e) {
+                // Let a later copy in this run retry instead of counting as a duplicate
+                seenFingerprints.remove(fingerprint);
+                seenSerials.remove(serialKey);
+                throw e;
+            }
+        }
+
+        void reject(String reason) {
+            rejected.incrementAndGet();
+            if (rejects.size() < MAX_REPORTED_REJECTS) {
+                rejects.add(reason);
+            }
+        }
+
+        // Wait for every in-flight task to finish
+        private void drain() throws InterruptedException {
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        }
+
+        CertificateImportReport finish() throws InterruptedException {
+            drain();
+
+            long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+            CertificateImportReport report = new CertificateImportReport();
+            report.setParsed(parsed.get());
+            report.setImported(imported.get());
+            report.setDuplicates(duplicates.get());
+            report.setAlreadyInVault(alreadyInVault.get());
+            report.setRejected(rejected.get());
+            report.setElapsedMillis(elapsed);
+            report.setCertificatesPerSecond(imported.get() * 1000.0 / elapsed);
+            report.setRejects(new ArrayList<>(rejects));
+            report.setMessage("Imported " + imported.get() + " certificates into Vault");
+            log.info("Certificate import finished: {} imported, {} duplicates, {} already in Vault, {} rejected in {} ms",
+                imported.get(), duplicates.get(), alreadyInVault.get(), rejected.get(), elapsed);
+            return report;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private String commonNameOf(X500Name subject) {
+        RDN[] rdns = subject.getRDNs(BCStyle.CN);
+        if (rdns.length == 0) {
+            return subject.toString();
+        }
+        return IETFUtils.valueToString(rdns[0].getFirst().getValue());
+    }
+}
@@ -7,15 +7,12 @@ import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cert.X509v3CertificateBuilder;
 import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
-import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
 import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.vault.core.VaultTemplate;
 
-import java.io.StringWriter;
 import java.math.BigInteger;
 import java.security.*;
 import java.security.cert.X509Certificate;
@@ -33,7 +30,7 @@ public class CertificateService {
     }
 
     static {
-        Security.addProvider(new BouncyCastleProvider());
+        CertificateVault.registerProvider();
     }
 
     /**
@@ -81,9 +78,10 @@ public class CertificateService {
             .getCertificate(certHolder);
 
         // 6. 转换为 PEM 格式
-        String certPem = convertToPem(certificate);
-        String privateKeyPem = convertToPem(keyPair.getPrivate());
-        String publicKeyPem = convertToPem(keyPair.getPublic());
+        String certPem = CertificateVault.convertToPem(certificate);
+        String privateKeyPem = CertificateVault.convertToPem(keyPair.getPrivate());
+        String publicKeyPem = CertificateVault.convertToPem(keyPair.getPublic());
+        String issuer = CertificateVault.issuerOf(certificate);
 
         // 7. 生成唯一 ID
         String certificateId = UUID.randomUUID().toString();
@@ -94,15 +92,18 @@ public class CertificateService {
         certData.put("certificate", certPem);
         certData.put("privateKey", privateKeyPem);
         certData.put("publicKey", publicKeyPem);
-        certData.put("issuer", certificate.getIssuerDN().toString());
+        certData.put("issuer", issuer);
         certData.put("validFrom", certificate.getNotBefore().toString());
         certData.put("validTo", certificate.getNotAfter().toString());
         certData.put("algorithm", certificate.getSigAlgName());
         certData.put("serialNumber", certificate.getSerialNumber().toString());
         certData.put("createdAt", new Date().toString());
 
-        String vaultPath = "secret/data/certificates/" + certificateId;
+        String vaultPath = CertificateVault.DATA_PATH + certificateId;
         vaultTemplate.write(vaultPath, Map.of("data", certData));
+        vaultTemplate.write(
+            CertificateVault.serialIndexPath(issuer, certificate.getSerialNumber().toString()),
+            Map.of("data", Map.of("certificateId", certificateId)));
 
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
         CertificateResponse response = new CertificateResponse();
@@ -111,7 +112,7 @@ public class CertificateService {
         response.setCertificate(certPem);
         response.setPrivateKey(privateKeyPem);
         response.setPublicKey(publicKeyPem);
-        response.setIssuer(certificate.getIssuerDN().toString());
+        response.setIssuer(issuer);
         response.setValidFrom(sdf.format(certificate.getNotBefore()));
         response.setValidTo(sdf.format(certificate.getNotAfter()));
         response.setAlgorithm(certificate.getSigAlgName());
@@ -122,7 +123,7 @@ public class CertificateService {
     /**
      */
     public CertificateResponse getCertificateFromVault(String certificateId) {
-        String vaultPath = "secret/data/certificates/" + certificateId;
+        String vaultPath = CertificateVault.DATA_PATH + certificateId;
         
         var response = vaultTemplate.read(vaultPath, Map.class);
         
@@ -179,12 +180,4 @@ public class CertificateService {
         }
         return sb.toString();
     }
-
-    private String convertToPem(Object obj) throws Exception {
-        StringWriter writer = new StringWriter();
-        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
-            pemWriter.writeObject(obj);
-        }
-        return writer.toString();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.certmgmt.service;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.HexFormat;
+
+/**
+ * Vault layout and field formats shared by the services that read and write
+ * certificates, so issuance, import and export cannot drift apart.
+ */
+final class CertificateVault {
+
+    static final String METADATA_PATH = "secret/metadata/certificates";
+    static final String DATA_PATH = "secret/data/certificates/";
+    // One marker per issuer+serial, pointing at the certificate stored for it
+    static final String SERIAL_INDEX_PATH = "secret/data/certificates-index/";
+
+    private CertificateVault() {}
+
+    static void registerProvider() {
+        if (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) == null) {
+            Security.addProvider(new BouncyCastleProvider());
+        }
+    }
+
+    // Value stored in the "issuer" field
+    static String issuerOf(X509Certificate certificate) {
+        return certificate.getIssuerDN().toString();
+    }
+
+    static String serialIndexPath(String issuer, String serialNumber) {
+        return SERIAL_INDEX_PATH + sha256Hex((issuer + "|" + serialNumber).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String convertToPem(Object obj) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            pemWriter.writeObject(obj);
+        }
+        return writer.toString();
+    }
+}
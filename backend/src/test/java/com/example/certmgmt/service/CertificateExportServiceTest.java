@@ -0,0 +1,153 @@
+package com.example.certmgmt.service;
+
+import com.example.certmgmt.dto.CertificateExportFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultResponseSupport;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CertificateExportServiceTest {
+
+    private static final long DAY = 86_400_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private VaultTemplate vaultTemplate;
+    private CertificateExportService service;
+
+    @BeforeEach
+    void setUp() {
+        vaultTemplate = mock(VaultTemplate.class);
+        // "broken" comes first so the records after it prove the export carries on
+        when(vaultTemplate.list(anyString()))
+            .thenReturn(List.of("broken", "active", "soon", "expired", "folder/", "deleted"));
+        when(vaultTemplate.read("secret/data/certificates/broken", Map.class))
+            .thenThrow(new IllegalStateException("vault sealed"));
+        stubCertificate("active", daysFromNow(365));
+        stubCertificate("soon", daysFromNow(5));
+        stubCertificate("expired", daysFromNow(-5));
+        service = new CertificateExportService(vaultTemplate, objectMapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void excludesPrivateKeyUnlessRequested() throws Exception {
+        List<Map<String, Object>> records = certificates(export(new CertificateExportFilter()));
+        assertThat(records).hasSize(3).allSatisfy(record -> assertThat(record).doesNotContainKey("privateKey"));
+
+        CertificateExportFilter filter = new CertificateExportFilter();
+        filter.setIncludePrivateKey(true);
+        assertThat(certificates(export(filter)))
+            .hasSize(3)
+            .allSatisfy(record -> assertThat(record).containsEntry("privateKey", "KEY"));
+    }
+
+    @Test
+    void selectsRecordsByExpiryWindow() throws Exception {
+        CertificateExportFilter filter = new CertificateExportFilter();
+        filter.setExpiresWithinDays(30);
+
+        assertThat(ids(certificates(export(filter)))).containsExactly("soon", "expired");
+    }
+
+    @Test
+    void selectsRecordsByStatus() throws Exception {
+        CertificateExportFilter expired = new CertificateExportFilter();
+        expired.setStatus("expired");
+        assertThat(ids(certificates(export(expired)))).containsExactly("expired");
+
+        CertificateExportFilter active = new CertificateExportFilter();
+        active.setStatus("active");
+        assertThat(ids(certificates(export(active)))).containsExactly("active", "soon");
+    }
+
+    @Test
+    void writesErrorLineAndContinuesWhenReadFails() throws Exception {
+        List<Map<String, Object>> lines = export(new CertificateExportFilter());
+
+        assertThat(lines.get(0)).containsEntry("certificateId", "broken").containsKey("_error");
+        assertThat(lines.get(0).get("_error").toString()).contains("vault sealed");
+        assertThat(ids(certificates(lines))).containsExactly("active", "soon", "expired");
+    }
+
+    @Test
+    void endsWithReconcilableSummary() throws Exception {
+        CertificateExportFilter filter = new CertificateExportFilter();
+        filter.setStatus("expired");
+
+        List<Map<String, Object>> lines = export(filter);
+
+        Map<String, Object> summary = (Map<String, Object>) lines.get(lines.size() - 1).get("_summary");
+        assertThat(summary)
+            .containsEntry("exported", 1)
+            .containsEntry("errors", 1)
+            .containsEntry("filtered", 2)
+            .containsEntry("skipped", 2)
+            .containsEntry("total", 6);
+    }
+
+    @Test
+    void writesSummaryForEmptyInventory() throws Exception {
+        when(vaultTemplate.list(anyString())).thenReturn(null);
+
+        List<Map<String, Object>> lines = export(new CertificateExportFilter());
+
+        assertThat(lines).hasSize(1);
+        assertThat((Map<String, Object>) lines.get(0).get("_summary"))
+            .containsEntry("exported", 0)
+            .containsEntry("total", 0);
+    }
+
+    private void stubCertificate(String id, Date validTo) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("commonName", id + ".example.com");
+        data.put("certificate", "CERT");
+        data.put("privateKey", "KEY");
+        data.put("validTo", validTo.toString());
+        VaultResponseSupport<Map> response = new VaultResponseSupport<>();
+        response.setData(Map.of("data", data));
+        when(vaultTemplate.read("secret/data/certificates/" + id, Map.class)).thenReturn(response);
+    }
+
+    private static Date daysFromNow(int days) {
+        return new Date(System.currentTimeMillis() + days * DAY);
+    }
+
+    private List<Map<String, Object>> export(CertificateExportFilter filter) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportNdjson(filter, out);
+        List<Map<String, Object>> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readValue(line, Map.class));
+        }
+        assertThat(lines.get(lines.size() - 1)).containsKey("_summary");
+        return lines;
+    }
+
+    private static List<Map<String, Object>> certificates(List<Map<String, Object>> lines) {
+        return lines.stream()
+            .filter(line -> line.containsKey("certificateId") && !line.containsKey("_error"))
+            .toList();
+    }
+
+    private static List<Object> ids(List<Map<String, Object>> records) {
+        return records.stream().map(record -> record.get("certificateId")).toList();
+    }
+}
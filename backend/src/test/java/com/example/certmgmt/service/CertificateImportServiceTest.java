@@ -0,0 +1,209 @@
+package com.example.certmgmt.service;
+
+import com.example.certmgmt.dto.CertificateImportReport;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.X509CertificateHolder;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.bouncycastle.openssl.jcajce.JcaPEMWriter;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.vault.core.VaultTemplate;
+import org.springframework.vault.support.VaultResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Security;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class CertificateImportServiceTest {
+
+    private static final String CORRUPT_BASE64 =
+        "-----BEGIN CERTIFICATE-----\n@@@@\n-----END CERTIFICATE-----\n";
+    private static final String INVALID_DER =
+        "-----BEGIN CERTIFICATE-----\nAAAA\n-----END CERTIFICATE-----\n";
+
+    private VaultTemplate vaultTemplate;
+    private CertificateImportService service;
+
+    @BeforeAll
+    static void registerProvider() {
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    @BeforeEach
+    void setUp() {
+        vaultTemplate = mock(VaultTemplate.class);
+        service = new CertificateImportService(vaultTemplate, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void importsEachCertificateOnceByFingerprint() throws Exception {
+        X509CertificateHolder cert = selfSigned("a.example.com", BigInteger.ONE, keyPair());
+
+        CertificateImportReport report = service.importPem(stream(pem(cert, cert)));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        assertThat(report.getRejected()).isZero();
+        verify(vaultTemplate).write(eq("secret/data/certificates/" + fingerprint(cert)), any());
+        verify(vaultTemplate).write(eq(CertificateVault.serialIndexPath(issuerOf(cert), "1")), any());
+    }
+
+    @Test
+    void importsEachIssuerAndSerialOnce() throws Exception {
+        X509CertificateHolder first = selfSigned("b.example.com", BigInteger.TWO, keyPair());
+        X509CertificateHolder second = selfSigned("b.example.com", BigInteger.TWO, keyPair());
+
+        CertificateImportReport report = service.importPem(stream(pem(first, second)));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(1);
+        verify(vaultTemplate, times(1)).write(startsWith("secret/data/certificates/"), any());
+    }
+
+    @Test
+    void skipsCertificateAlreadyImported() throws Exception {
+        X509CertificateHolder cert = selfSigned("c.example.com", BigInteger.TEN, keyPair());
+        when(vaultTemplate.read("secret/data/certificates/" + fingerprint(cert)))
+            .thenReturn(stored(Map.of("fingerprint", fingerprint(cert))));
+
+        CertificateImportReport report = service.importPem(stream(pem(cert)));
+
+        assertThat(report.getAlreadyInVault()).isEqualTo(1);
+        assertThat(report.getImported()).isZero();
+        verify(vaultTemplate, never()).write(anyString(), any());
+    }
+
+    @Test
+    void skipsCertificateStoredUnderAnotherIdWithSameSerial() throws Exception {
+        X509CertificateHolder cert = selfSigned("d.example.com", BigInteger.valueOf(42), keyPair());
+        // Marker written by createAndStoreCertificate for a certificate stored under a UUID
+        when(vaultTemplate.read(CertificateVault.serialIndexPath(issuerOf(cert), "42")))
+            .thenReturn(stored(Map.of("certificateId", "existing-uuid")));
+
+        CertificateImportReport report = service.importPem(stream(pem(cert)));
+
+        assertThat(report.getAlreadyInVault()).isEqualTo(1);
+        verify(vaultTemplate, never()).write(anyString(), any());
+    }
+
+    @Test
+    void rejectsFailedIndexReadInsteadOfImporting() throws Exception {
+        X509CertificateHolder cert = selfSigned("g.example.com", BigInteger.valueOf(11), keyPair());
+        when(vaultTemplate.read(CertificateVault.serialIndexPath(issuerOf(cert), "11")))
+            .thenThrow(new IllegalStateException("permission denied"));
+
+        CertificateImportReport report = service.importPem(stream(pem(cert)));
+
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getRejects().get(0)).contains("permission denied");
+        verify(vaultTemplate, never()).write(anyString(), any());
+    }
+
+    @Test
+    void retriesLaterCopyAfterFailedWrite() throws Exception {
+        // A single worker processes the two copies in order
+        service.shutdown();
+        service = new CertificateImportService(vaultTemplate, 1);
+        X509CertificateHolder cert = selfSigned("h.example.com", BigInteger.valueOf(13), keyPair());
+        when(vaultTemplate.write(eq("secret/data/certificates/" + fingerprint(cert)), any()))
+            .thenThrow(new NullPointerException())
+            .thenReturn(null);
+
+        CertificateImportReport report = service.importPem(stream(pem(cert, cert)));
+
+        assertThat(report.getRejected()).isEqualTo(1);
+        assertThat(report.getRejects().get(0)).endsWith("NullPointerException");
+        assertThat(report.getDuplicates()).isZero();
+        assertThat(report.getImported()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsMalformedBlocksAndImportsTheRest() throws Exception {
+        X509CertificateHolder cert = selfSigned("e.example.com", BigInteger.valueOf(7), keyPair());
+
+        CertificateImportReport report = service.importPem(
+            stream(CORRUPT_BASE64 + INVALID_DER + pem(cert)));
+
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getRejects()).hasSize(2);
+        assertThat(report.getImported()).isEqualTo(1);
+    }
+
+    @Test
+    void importsCertificateFromKeyAndCertificateBundle() throws Exception {
+        KeyPair keyPair = keyPair();
+        X509CertificateHolder cert = selfSigned("f.example.com", BigInteger.valueOf(9), keyPair);
+
+        CertificateImportReport report = service.importPem(stream(pem(keyPair.getPrivate(), cert)));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isZero();
+        verify(vaultTemplate).write(eq("secret/data/certificates/" + fingerprint(cert)), any());
+    }
+
+    private static KeyPair keyPair() throws Exception {
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA");
+        keyGen.initialize(2048);
+        return keyGen.generateKeyPair();
+    }
+
+    private static X509CertificateHolder selfSigned(String commonName, BigInteger serial, KeyPair keyPair)
+            throws Exception {
+        X500Name name = new X500Name("CN=" + commonName);
+        Date notBefore = new Date();
+        Date notAfter = new Date(notBefore.getTime() + 86_400_000L);
+        return new JcaX509v3CertificateBuilder(name, serial, notBefore, notAfter, name, keyPair.getPublic())
+            .build(new JcaContentSignerBuilder("SHA256WithRSA").setProvider("BC").build(keyPair.getPrivate()));
+    }
+
+    private static String pem(Object... objects) throws Exception {
+        StringWriter writer = new StringWriter();
+        try (JcaPEMWriter pemWriter = new JcaPEMWriter(writer)) {
+            for (Object obj : objects) {
+                pemWriter.writeObject(obj);
+            }
+        }
+        return writer.toString();
+    }
+
+    private static String fingerprint(X509CertificateHolder cert) throws Exception {
+        return CertificateVault.sha256Hex(cert.getEncoded());
+    }
+
+    private static String issuerOf(X509CertificateHolder cert) throws Exception {
+        return CertificateVault.issuerOf(new JcaX509CertificateConverter().setProvider("BC").getCertificate(cert));
+    }
+
+    private static VaultResponse stored(Map<String, Object> data) {
+        VaultResponse response = new VaultResponse();
+        response.setData(Map.of("data", data));
+        return response;
+    }
+
+    private static InputStream stream(String pem) {
+        return new ByteArrayInputStream(pem.getBytes(StandardCharsets.UTF_8));
+    }
+}